@@ -0,0 +1,37 @@
+package com.pearldatadirect.ibanvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call to {@code BankDetailsService.add}.
+ */
+@Name(BankDetailsAddEvent.NAME)
+@Label("Bank Details Add")
+@Category({"IBAN Validator", "Service"})
+@Description("Bank details parsed and stored")
+@Enabled(false)
+@StackTrace(false)
+public class BankDetailsAddEvent extends Event {
+
+  public static final String NAME = "com.pearldatadirect.ibanvalidator.BankDetailsAdd";
+
+  private static final EventType TYPE = EventType.getEventType(BankDetailsAddEvent.class);
+
+  @Label("Bank Code")
+  public String bankCode;
+
+  @Label("Success")
+  @Description("False if parsing the IBAN threw")
+  public boolean success;
+
+  public static boolean isRecording() {
+    return TYPE.isEnabled();
+  }
+}
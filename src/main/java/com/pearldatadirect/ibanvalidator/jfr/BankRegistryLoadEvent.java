@@ -0,0 +1,43 @@
+package com.pearldatadirect.ibanvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Loading of uae-bank-codes.csv into {@code AeBankCodeRegistry}.
+ */
+@Name(BankRegistryLoadEvent.NAME)
+@Label("Bank Registry Load")
+@Category({"IBAN Validator", "Bank Registry"})
+@Description("UAE bank code CSV load")
+@Enabled(false)
+@StackTrace(false)
+public class BankRegistryLoadEvent extends Event {
+
+  public static final String NAME = "com.pearldatadirect.ibanvalidator.BankRegistryLoad";
+
+  private static final EventType TYPE = EventType.getEventType(BankRegistryLoadEvent.class);
+
+  @Label("Source")
+  public String source;
+
+  @Label("Codes Loaded")
+  public int codeCount;
+
+  @Label("Live Only")
+  public boolean liveOnly;
+
+  @Label("Success")
+  @Description("False if the CSV could not be loaded")
+  public boolean success;
+
+  public static boolean isRecording() {
+    return TYPE.isEnabled();
+  }
+}
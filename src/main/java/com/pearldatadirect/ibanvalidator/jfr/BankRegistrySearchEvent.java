@@ -0,0 +1,46 @@
+package com.pearldatadirect.ibanvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call to {@code AeBankCodeRegistry.search}.
+ */
+@Name(BankRegistrySearchEvent.NAME)
+@Label("Bank Registry Search")
+@Category({"IBAN Validator", "Bank Registry"})
+@Description("UAE bank metadata search")
+@Enabled(false)
+@StackTrace(false)
+public class BankRegistrySearchEvent extends Event {
+
+  public static final String NAME = "com.pearldatadirect.ibanvalidator.BankRegistrySearch";
+
+  private static final EventType TYPE = EventType.getEventType(BankRegistrySearchEvent.class);
+
+  @Label("Query")
+  public String query;
+
+  @Label("BIC")
+  public String bic;
+
+  @Label("Limit")
+  public int limit;
+
+  @Label("Result Count")
+  public int resultCount;
+
+  @Label("Success")
+  @Description("False if the search threw")
+  public boolean success;
+
+  public static boolean isRecording() {
+    return TYPE.isEnabled();
+  }
+}
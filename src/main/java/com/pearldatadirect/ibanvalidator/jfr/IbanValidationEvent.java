@@ -0,0 +1,101 @@
+package com.pearldatadirect.ibanvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One call to {@code AeIbanValidator.isValid}, with per-stage durations and the rejection reason.
+ *
+ * Disabled by default; enable it with the bundled jfr/ibanvalidator.jfc settings.
+ */
+@Name(IbanValidationEvent.NAME)
+@Label("IBAN Validation")
+@Category({"IBAN Validator", "Validation"})
+@Description("AE IBAN constraint validation")
+@Enabled(false)
+@StackTrace(false)
+public class IbanValidationEvent extends Event {
+
+  public static final String NAME = "com.pearldatadirect.ibanvalidator.IbanValidation";
+
+  private static final EventType TYPE = EventType.getEventType(IbanValidationEvent.class);
+
+  @Label("Valid")
+  public boolean valid;
+
+  @Label("Reason")
+  @Description("Rejection message, null when valid")
+  public String reason;
+
+  @Label("Bank Code")
+  @Description("3-digit bank code, once the IBAN has the right length")
+  public String bankCode;
+
+  @Label("Normalize")
+  @Timespan
+  public long normalizeNanos;
+
+  @Label("Format Checks")
+  @Description("Alphanumeric, country and length guards")
+  @Timespan
+  public long formatNanos;
+
+  @Label("Checksum")
+  @Description("iban4j structure + check digit validation")
+  @Timespan
+  public long checksumNanos;
+
+  @Label("Bank Code Lookup")
+  @Timespan
+  public long bankLookupNanos;
+
+  private transient long lapStart;
+  private transient int stage;
+
+  /**
+   * Cheap check made before creating an event, so nothing is allocated while JFR is off.
+   */
+  public static boolean isRecording() {
+    return TYPE.isEnabled();
+  }
+
+  public void start() {
+    begin();
+    lapStart = System.nanoTime();
+  }
+
+  /**
+   * Stores the time since the previous stage ended (or {@link #start()}) in the current
+   * stage's field and moves on to the next stage: normalize, format, checksum, bank lookup.
+   */
+  public void endStage() {
+    long now = System.nanoTime();
+    long elapsed = now - lapStart;
+    lapStart = now;
+
+    switch (stage++) {
+      case 0 -> normalizeNanos = elapsed;
+      case 1 -> formatNanos = elapsed;
+      case 2 -> checksumNanos = elapsed;
+      case 3 -> bankLookupNanos = elapsed;
+      default -> {
+        // all stages already recorded
+      }
+    }
+  }
+
+  /**
+   * Ends the stage that rejected the IBAN, so its time is kept, and records the reason.
+   */
+  public void reject(String reason) {
+    endStage();
+    this.reason = reason;
+  }
+}
@@ -0,0 +1,103 @@
+package com.pearldatadirect.ibanvalidator.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Summarizes a JFR recording made with jfr/ibanvalidator.jfc into latency tables:
+ * validations per rejection reason, validations per bank code, and registry / service calls.
+ *
+ * Usage: java -cp target/classes com.pearldatadirect.ibanvalidator.jfr.JfrRecordingSummary recording.jfr
+ */
+public final class JfrRecordingSummary {
+
+  private JfrRecordingSummary() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: JfrRecordingSummary <recording.jfr>");
+      System.exit(2);
+    }
+    System.out.print(summarize(Path.of(args[0])));
+  }
+
+  public static String summarize(Path recording) throws IOException {
+    Map<String, List<Long>> byReason = new TreeMap<>();
+    Map<String, List<Long>> byBank = new TreeMap<>();
+    Map<String, List<Long>> other = new TreeMap<>();
+
+    // Stream: a production recording also holds every jdk.* event from the default profile
+    try (RecordingFile file = new RecordingFile(recording)) {
+      while (file.hasMoreEvents()) {
+        RecordedEvent e = file.readEvent();
+        long nanos = e.getDuration().toNanos();
+        switch (e.getEventType().getName()) {
+          case IbanValidationEvent.NAME -> {
+            String reason = e.getString("reason");
+            String bankCode = e.getString("bankCode");
+            String key = e.getBoolean("valid") ? "(valid)" : (reason == null ? "(error)" : reason);
+            add(byReason, key, nanos);
+            add(byBank, bankCode == null ? "(none)" : bankCode, nanos);
+          }
+          case BankRegistryLoadEvent.NAME -> add(other, "registry load", nanos);
+          case BankRegistrySearchEvent.NAME -> add(other, "registry search", nanos);
+          case BankDetailsAddEvent.NAME -> add(other, "bank details add", nanos);
+          default -> {
+            // not one of ours
+          }
+        }
+      }
+    }
+
+    StringBuilder sb = new StringBuilder();
+    table(sb, "Validation latency by reason", "reason", byReason);
+    table(sb, "Validation latency by bank code", "bank", byBank);
+    table(sb, "Registry and service latency", "operation", other);
+    return sb.toString();
+  }
+
+  private static void add(Map<String, List<Long>> groups, String key, long nanos) {
+    groups.computeIfAbsent(key, k -> new ArrayList<>()).add(nanos);
+  }
+
+  private static void table(StringBuilder sb, String title, String keyHeader, Map<String, List<Long>> groups) {
+    sb.append(title).append('\n');
+    if (groups.isEmpty()) {
+      sb.append("  (no events)\n\n");
+      return;
+    }
+
+    int width = keyHeader.length();
+    for (String key : groups.keySet()) width = Math.max(width, key.length());
+
+    String rowFormat = "  %-" + width + "s %8s %10s %10s %10s %10s%n";
+    sb.append(String.format(rowFormat, keyHeader, "count", "mean us", "p50 us", "p99 us", "max us"));
+    for (Map.Entry<String, List<Long>> entry : groups.entrySet()) {
+      List<Long> d = entry.getValue();
+      Collections.sort(d);
+      long total = 0;
+      for (long v : d) total += v;
+      sb.append(String.format(rowFormat,
+          entry.getKey(),
+          d.size(),
+          micros(total / d.size()),
+          micros(percentile(d, 50)),
+          micros(percentile(d, 99)),
+          micros(d.get(d.size() - 1))));
+    }
+    sb.append('\n');
+  }
+
+  private static long percentile(List<Long> sorted, int p) {
+    int idx = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+    return sorted.get(Math.max(0, idx));
+  }
+
+  private static String micros(long nanos) {
+    return String.format(Locale.ROOT, "%.1f", nanos / 1_000.0);
+  }
+}
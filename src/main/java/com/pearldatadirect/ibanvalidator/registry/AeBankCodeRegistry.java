@@ -1,5 +1,7 @@
 package com.pearldatadirect.ibanvalidator.registry;
 
+import com.pearldatadirect.ibanvalidator.jfr.BankRegistryLoadEvent;
+import com.pearldatadirect.ibanvalidator.jfr.BankRegistrySearchEvent;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
@@ -19,12 +21,32 @@ import java.util.stream.Collectors;
 @Component
 public class AeBankCodeRegistry {
 
+  private static final String CSV_RESOURCE = "uae-bank-codes.csv";
+
   private final Map<String, AeBankInfo> byCode;
   private final boolean liveOnly;
 
   public AeBankCodeRegistry(@Value("${ae.bankcodes.live-only:true}") boolean liveOnly) {
     this.liveOnly = liveOnly;
-    this.byCode = Collections.unmodifiableMap(load());
+
+    BankRegistryLoadEvent event = BankRegistryLoadEvent.isRecording() ? new BankRegistryLoadEvent() : null;
+    if (event != null) {
+      event.begin();
+      event.source = CSV_RESOURCE;
+      event.liveOnly = liveOnly;
+    }
+
+    Map<String, AeBankInfo> loaded = null;
+    try {
+      loaded = load();
+    } finally {
+      if (event != null) {
+        event.success = loaded != null;
+        event.codeCount = loaded == null ? 0 : loaded.size();
+        event.commit();
+      }
+    }
+    this.byCode = Collections.unmodifiableMap(loaded);
   }
 
   /**
@@ -56,6 +78,28 @@ public class AeBankCodeRegistry {
    * @param limit max number of items to return
    */
   public List<AeBankInfo> search(String q, String bic, int limit) {
+    BankRegistrySearchEvent event = BankRegistrySearchEvent.isRecording() ? new BankRegistrySearchEvent() : null;
+    if (event != null) {
+      event.begin();
+      event.query = q;
+      event.bic = bic;
+      event.limit = limit;
+    }
+
+    List<AeBankInfo> results = null;
+    try {
+      results = doSearch(q, bic, limit);
+      return results;
+    } finally {
+      if (event != null) {
+        event.success = results != null;
+        event.resultCount = results == null ? 0 : results.size();
+        event.commit();
+      }
+    }
+  }
+
+  private List<AeBankInfo> doSearch(String q, String bic, int limit) {
     String qn = safe(q).toLowerCase(Locale.ROOT);
     String bicN = safe(bic).toUpperCase(Locale.ROOT);
 
@@ -81,7 +125,7 @@ public class AeBankCodeRegistry {
 
   private Map<String, AeBankInfo> load() {
     Map<String, AeBankInfo> map = new HashMap<>();
-    ClassPathResource resource = new ClassPathResource("uae-bank-codes.csv");
+    ClassPathResource resource = new ClassPathResource(CSV_RESOURCE);
 
     try (BufferedReader br = new BufferedReader(
         new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
@@ -1,6 +1,7 @@
 package com.pearldatadirect.ibanvalidator.service;
 
 import com.pearldatadirect.ibanvalidator.api.AddBankDetailsRequest;
+import com.pearldatadirect.ibanvalidator.jfr.BankDetailsAddEvent;
 import org.iban4j.Iban;
 import org.springframework.stereotype.Service;
 
@@ -12,15 +13,25 @@ public class BankDetailsService {
    * Here we just parse + return normally to demonstrate backend validation & extraction.
    */
   public void add(AddBankDetailsRequest req) {
-    String canonical = canonicalize(req.iban());
-    Iban iban = Iban.valueOf(canonical);
+    BankDetailsAddEvent event = BankDetailsAddEvent.isRecording() ? new BankDetailsAddEvent() : null;
+    if (event != null) event.begin();
 
-    // Example: extract parts if you need them downstream
-    String bankCode = iban.getBankCode();
-    String accountNumber = iban.getAccountNumber();
+    try {
+      String canonical = canonicalize(req.iban());
+      Iban iban = Iban.valueOf(canonical);
 
-    // TODO: persist canonical IBAN + optional derived attributes (bankCode, accountNumber)
-    // No-op for this sample.
+      // Example: extract parts if you need them downstream
+      String bankCode = iban.getBankCode();
+      String accountNumber = iban.getAccountNumber();
+      if (event != null) event.bankCode = bankCode;
+
+      // TODO: persist canonical IBAN + optional derived attributes (bankCode, accountNumber)
+      // No-op for this sample.
+
+      if (event != null) event.success = true;
+    } finally {
+      if (event != null) event.commit();
+    }
   }
 
   public static String canonicalize(String ibanInput) {
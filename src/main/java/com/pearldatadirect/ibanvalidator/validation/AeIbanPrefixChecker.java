@@ -0,0 +1,117 @@
+package com.pearldatadirect.ibanvalidator.validation;
+
+import com.pearldatadirect.ibanvalidator.registry.AeBankCodeRegistry;
+import com.pearldatadirect.ibanvalidator.registry.AeBankInfo;
+import org.springframework.stereotype.Component;
+
+/**
+ * Incremental (as-you-type) check of a partial AE IBAN.
+ *
+ * Walks the input once, skipping whitespace and upper-casing on the fly, and never throws:
+ * every problem is reported through {@link AeIbanPrefixStatus#reason()}. The checksum is
+ * accumulated digit by digit over the BBAN, so no rearranged copy of the IBAN is built.
+ */
+@Component
+public class AeIbanPrefixChecker {
+
+  static final int AE_IBAN_LENGTH = 23;
+
+  // "AE" rearranged to the end of the IBAN becomes the digits 10 14
+  private static final int AE_COUNTRY_DIGITS = 1014;
+
+  private final AeBankCodeRegistry bankCodeRegistry;
+
+  public AeIbanPrefixChecker(AeBankCodeRegistry bankCodeRegistry) {
+    this.bankCodeRegistry = bankCodeRegistry;
+  }
+
+  public AeIbanPrefixStatus check(String input) {
+    int pos = 0;
+    int checkDigits = 0;
+    int bbanMod97 = 0;
+    char[] bankCode = new char[3];
+    boolean tooLong = false;
+    String reason = null;
+
+    // Mirror AeIbanValidator.normalize: trim() drops everything <= ' ' at both ends,
+    // then \s+ is removed from what is left
+    int start = 0;
+    int end = input == null ? 0 : input.length();
+    while (start < end && input.charAt(start) <= ' ') start++;
+    while (end > start && input.charAt(end - 1) <= ' ') end--;
+
+    for (int i = start; i < end; i++) {
+      char c = input.charAt(i);
+      if (isRegexWhitespace(c)) continue;
+      if (c >= 'a' && c <= 'z') c = (char) (c - ('a' - 'A'));
+
+      boolean digit = c >= '0' && c <= '9';
+      if (!digit && (c < 'A' || c > 'Z')) {
+        reason = "IBAN must be alphanumeric";
+        break;
+      }
+      if (pos == AE_IBAN_LENGTH) {
+        tooLong = true;
+        reason = "UAE (AE) IBAN must be exactly 23 characters";
+        break;
+      }
+      if (pos < 2) {
+        if (c != (pos == 0 ? 'A' : 'E')) {
+          reason = "IBAN must start with AE";
+          break;
+        }
+      } else if (!digit) {
+        // AE check digits, bank code and account number are all numeric
+        reason = "Invalid IBAN format";
+        break;
+      } else if (pos < 4) {
+        checkDigits = checkDigits * 10 + (c - '0');
+      } else {
+        bbanMod97 = (bbanMod97 * 10 + (c - '0')) % 97;
+        if (pos < 7) bankCode[pos - 4] = c;
+      }
+      pos++;
+    }
+
+    AeBankInfo bank = null;
+    if (pos >= 7) {
+      String code = new String(bankCode);
+      bank = bankCodeRegistry.get(code).orElse(null);
+      if (reason == null) {
+        if (bank == null) {
+          reason = "Unknown UAE bank code";
+        } else if (!bankCodeRegistry.isValid(code)) {
+          reason = "Inactive UAE bank code";
+        }
+      }
+    }
+
+    boolean complete = pos == AE_IBAN_LENGTH && !tooLong;
+    Boolean checksumValid = null;
+    if (complete) {
+      // Same rule as iban4j: expected check digits = 98 - (BBAN + "AE" + "00") mod 97
+      int mod = (bbanMod97 * 10_000 + AE_COUNTRY_DIGITS) % 97;
+      mod = (mod * 100) % 97;
+      checksumValid = checkDigits == 98 - mod;
+      if (!checksumValid && reason == null) {
+        reason = "Invalid IBAN check digits";
+      }
+    }
+
+    return new AeIbanPrefixStatus(
+        reason == null,
+        complete,
+        pos >= 2,
+        pos >= 4,
+        bank,
+        AE_IBAN_LENGTH - pos,
+        checksumValid,
+        reason
+    );
+  }
+
+  // The \s set removed inside the IBAN by AeIbanValidator.normalize (Character.isWhitespace would also skip Unicode spaces)
+  private static boolean isRegexWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+}
@@ -0,0 +1,26 @@
+package com.pearldatadirect.ibanvalidator.validation;
+
+import com.pearldatadirect.ibanvalidator.registry.AeBankInfo;
+
+/**
+ * State of a (possibly partial) AE IBAN as typed so far.
+ *
+ * @param valid              false as soon as the typed prefix can no longer become a valid AE IBAN
+ * @param complete           true once all 23 characters are present
+ * @param countryOk          true once "AE" has been typed
+ * @param checkDigitsPresent true once both check digits have been typed
+ * @param bank               bank metadata, resolved once the 3-digit bank code has been typed (null otherwise)
+ * @param remaining          characters still missing (0 when complete or too long)
+ * @param checksumValid      checksum result once complete (null while incomplete)
+ * @param reason             first problem found, using the same messages as {@link AeIbanValidator} (null if none)
+ */
+public record AeIbanPrefixStatus(
+    boolean valid,
+    boolean complete,
+    boolean countryOk,
+    boolean checkDigitsPresent,
+    AeBankInfo bank,
+    int remaining,
+    Boolean checksumValid,
+    String reason
+) {}
@@ -1,5 +1,6 @@
 package com.pearldatadirect.ibanvalidator.validation;
 
+import com.pearldatadirect.ibanvalidator.jfr.IbanValidationEvent;
 import com.pearldatadirect.ibanvalidator.registry.AeBankCodeRegistry;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
@@ -18,47 +19,76 @@ public final class AeIbanValidator implements ConstraintValidator<AeIban, String
 
   @Override
   public boolean isValid(String value, ConstraintValidatorContext context) {
+    if (!IbanValidationEvent.isRecording()) {
+      return validate(value, context, null);
+    }
+
+    IbanValidationEvent event = new IbanValidationEvent();
+    event.start();
+    try {
+      event.valid = validate(value, context, event);
+      return event.valid;
+    } catch (RuntimeException e) {
+      // Keep a failed validation out of the "(valid)" row of the summary
+      event.reason = e.getClass().getName();
+      throw e;
+    } finally {
+      event.commit();
+    }
+  }
+
+  /**
+   * @param event JFR event to fill in, or null when not recording
+   */
+  private boolean validate(String value, ConstraintValidatorContext context, IbanValidationEvent event) {
     if (value == null || value.isBlank()) {
-      return violate(context, "IBAN is required");
+      return violate(context, event, "IBAN is required");
     }
 
     String iban = normalize(value);
+    if (event != null) event.endStage();
 
     // Basic guards
     if (!iban.matches("^[A-Z0-9]+$")) {
-      return violate(context, "IBAN must be alphanumeric");
+      return violate(context, event, "IBAN must be alphanumeric");
     }
 
     // UAE-only gate: AE + 21 remaining chars (total 23)
     if (!iban.startsWith("AE")) {
-      return violate(context, "IBAN must start with AE");
+      return violate(context, event, "IBAN must start with AE");
     }
     if (iban.length() != 23) {
-      return violate(context, "UAE (AE) IBAN must be exactly 23 characters");
+      return violate(context, event, "UAE (AE) IBAN must be exactly 23 characters");
+    }
+
+    // Bank code validation: positions 4..6 (after country+check digits)
+    String bankCode = iban.substring(4, 7);
+    if (event != null) {
+      event.bankCode = bankCode;
+      event.endStage();
     }
 
     try {
       IbanUtil.validate(iban); // structure + checksum
     } catch (IbanFormatException e) {
-      return violate(context, "Invalid IBAN format");
+      return violate(context, event, "Invalid IBAN format");
     } catch (InvalidCheckDigitException e) {
-      return violate(context, "Invalid IBAN check digits");
+      return violate(context, event, "Invalid IBAN check digits");
     } catch (UnsupportedCountryException e) {
-      return violate(context, "Unsupported IBAN country");
+      return violate(context, event, "Unsupported IBAN country");
     }
-
-    // Bank code validation: positions 4..6 (after country+check digits)
-    String bankCode = iban.substring(4, 7);
+    if (event != null) event.endStage();
 
     // If code missing entirely
     if (bankCodeRegistry.get(bankCode).isEmpty()) {
-      return violate(context, "Unknown UAE bank code");
+      return violate(context, event, "Unknown UAE bank code");
     }
 
     // If present but not valid per policy (e.g., non-Live when live-only enabled)
     if (!bankCodeRegistry.isValid(bankCode)) {
-      return violate(context, "Inactive UAE bank code");
+      return violate(context, event, "Inactive UAE bank code");
     }
+    if (event != null) event.endStage();
 
     return true;
   }
@@ -67,7 +97,8 @@ public final class AeIbanValidator implements ConstraintValidator<AeIban, String
     return input.trim().toUpperCase().replaceAll("\\s+", "");
   }
 
-  private static boolean violate(ConstraintValidatorContext context, String message) {
+  private static boolean violate(ConstraintValidatorContext context, IbanValidationEvent event, String message) {
+    if (event != null) event.reject(message);
     context.disableDefaultConstraintViolation();
     context.buildConstraintViolationWithTemplate(message).addConstraintViolation();
     return false;
@@ -0,0 +1,33 @@
+package com.pearldatadirect.ibanvalidator.web;
+
+import com.pearldatadirect.ibanvalidator.validation.AeIbanPrefixChecker;
+import com.pearldatadirect.ibanvalidator.validation.AeIbanPrefixStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/iban")
+public class IbanPrefixController {
+
+  private final AeIbanPrefixChecker checker;
+
+  public IbanPrefixController(AeIbanPrefixChecker checker) {
+    this.checker = checker;
+  }
+
+  /**
+   * Check a partial AE IBAN while it is being typed.
+   *
+   * Always returns 200 with the state of the prefix; problems are reported in "reason".
+   *
+   * Examples:
+   *  - /api/iban/prefix?value=AE07   => country + check digits present, 19 remaining
+   *  - /api/iban/prefix?value=AE07033 => bank resolved to Mashreq
+   */
+  @GetMapping("prefix")
+  public ResponseEntity<AeIbanPrefixStatus> prefix(
+      @RequestParam(name = "value", required = false, defaultValue = "") String value
+  ) {
+    return ResponseEntity.ok(checker.check(value));
+  }
+}
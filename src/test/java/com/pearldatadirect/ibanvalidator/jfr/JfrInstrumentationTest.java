@@ -0,0 +1,149 @@
+package com.pearldatadirect.ibanvalidator.jfr;
+
+import com.pearldatadirect.ibanvalidator.api.AddBankDetailsRequest;
+import com.pearldatadirect.ibanvalidator.registry.AeBankCodeRegistry;
+import com.pearldatadirect.ibanvalidator.service.BankDetailsService;
+import com.pearldatadirect.ibanvalidator.validation.AeIbanValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import org.iban4j.CountryCode;
+import org.iban4j.Iban;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JfrInstrumentationTest {
+
+  @TempDir
+  Path tmp;
+
+  ConstraintValidatorContext context;
+
+  String valid;
+
+  @BeforeEach
+  void setup() {
+    context = mock(ConstraintValidatorContext.class);
+    when(context.buildConstraintViolationWithTemplate(anyString()))
+        .thenReturn(mock(ConstraintValidatorContext.ConstraintViolationBuilder.class));
+
+    valid = new Iban.Builder()
+        .countryCode(CountryCode.AE)
+        .bankCode("033")
+        .accountNumber("1234567890123456")
+        .build()
+        .toString();
+  }
+
+  @Test
+  void eventsAreOffByDefault() {
+    assertFalse(IbanValidationEvent.isRecording());
+    assertFalse(BankRegistryLoadEvent.isRecording());
+    assertFalse(BankRegistrySearchEvent.isRecording());
+    assertFalse(BankDetailsAddEvent.isRecording());
+  }
+
+  @Test
+  void validationRecordsReasonAndTimeOfRejectingStage() throws Exception {
+    char last = valid.charAt(valid.length() - 1);
+    String badChecksum = valid.substring(0, valid.length() - 1) + ((last == '9') ? '8' : '9');
+
+    Path file = record(() -> {
+      AeIbanValidator validator = new AeIbanValidator(new AeBankCodeRegistry(true));
+      assertTrue(validator.isValid(valid, context));
+      assertFalse(validator.isValid("GB82WEST12345698765432", context));
+      assertFalse(validator.isValid(badChecksum, context));
+    });
+
+    List<RecordedEvent> events = JfrTestSupport.events(file, IbanValidationEvent.NAME);
+    assertEquals(3, events.size());
+
+    RecordedEvent ok = events.get(0);
+    assertTrue(ok.getBoolean("valid"));
+    assertNull(ok.getString("reason"));
+    assertEquals("033", ok.getString("bankCode"));
+
+    RecordedEvent nonAe = events.get(1);
+    assertEquals("IBAN must start with AE", nonAe.getString("reason"));
+    // Rejected at the format guards: later stages never ran
+    assertEquals(0, nonAe.getLong("checksumNanos"));
+    assertEquals(0, nonAe.getLong("bankLookupNanos"));
+
+    RecordedEvent checksum = events.get(2);
+    assertEquals("Invalid IBAN check digits", checksum.getString("reason"));
+    assertEquals(0, checksum.getLong("bankLookupNanos"));
+  }
+
+  @Test
+  void validationThatThrowsIsRecordedAsFailed() throws Exception {
+    AeBankCodeRegistry registry = mock(AeBankCodeRegistry.class);
+    when(registry.get("033")).thenThrow(new IllegalStateException("registry down"));
+
+    Path file = record(() -> assertThrows(IllegalStateException.class,
+        () -> new AeIbanValidator(registry).isValid(valid, context)));
+
+    List<RecordedEvent> events = JfrTestSupport.events(file, IbanValidationEvent.NAME);
+    assertEquals(1, events.size());
+    assertFalse(events.get(0).getBoolean("valid"));
+    assertEquals(IllegalStateException.class.getName(), events.get(0).getString("reason"));
+    assertEquals("033", events.get(0).getString("bankCode"));
+    assertEquals(0, events.get(0).getLong("bankLookupNanos"));
+
+    assertFalse(JfrRecordingSummary.summarize(file).contains("(valid)"));
+  }
+
+  @Test
+  void registryRecordsLoadAndSearch() throws Exception {
+    Path file = record(() -> new AeBankCodeRegistry(true).search("mash", null, 10));
+
+    RecordedEvent load = JfrTestSupport.events(file, BankRegistryLoadEvent.NAME).get(0);
+    assertTrue(load.getBoolean("success"));
+    assertTrue(load.getInt("codeCount") > 0);
+
+    RecordedEvent search = JfrTestSupport.events(file, BankRegistrySearchEvent.NAME).get(0);
+    assertTrue(search.getBoolean("success"));
+    assertEquals("mash", search.getString("query"));
+    assertEquals(10, search.getInt("limit"));
+    assertTrue(search.getInt("resultCount") > 0);
+  }
+
+  @Test
+  void bankDetailsAddRecordsSuccessAndFailure() throws Exception {
+    BankDetailsService service = new BankDetailsService();
+
+    Path file = record(() -> {
+      service.add(new AddBankDetailsRequest(valid, "Test User"));
+      assertThrows(RuntimeException.class,
+          () -> service.add(new AddBankDetailsRequest("AE00 0000", "Test User")));
+    });
+
+    List<RecordedEvent> events = JfrTestSupport.events(file, BankDetailsAddEvent.NAME);
+    assertEquals(2, events.size());
+
+    assertTrue(events.get(0).getBoolean("success"));
+    assertEquals("033", events.get(0).getString("bankCode"));
+
+    assertFalse(events.get(1).getBoolean("success"));
+    assertNull(events.get(1).getString("bankCode"));
+  }
+
+  private Path record(Runnable action) throws Exception {
+    Path file = tmp.resolve("instrumentation.jfr");
+    try (Recording recording = new Recording(JfrTestSupport.bundledSettings())) {
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+    }
+    return file;
+  }
+}
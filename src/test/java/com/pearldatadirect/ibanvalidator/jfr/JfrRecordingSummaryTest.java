@@ -0,0 +1,69 @@
+package com.pearldatadirect.ibanvalidator.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrRecordingSummaryTest {
+
+  @TempDir
+  Path tmp;
+
+  @Test
+  void groupsValidationsByReasonAndBankCode() throws Exception {
+    Path file = tmp.resolve("summary.jfr");
+
+    try (Recording recording = new Recording(JfrTestSupport.bundledSettings())) {
+      recording.start();
+
+      validation(true, null, "033");
+      validation(false, "Unknown UAE bank code", "999");
+      validation(false, "IBAN must start with AE", null);
+      validation(false, null, "033");
+
+      BankRegistrySearchEvent search = new BankRegistrySearchEvent();
+      search.begin();
+      search.commit();
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    String summary = JfrRecordingSummary.summarize(file);
+    assertTrue(summary.contains("Validation latency by reason"));
+    assertTrue(summary.contains("(valid)"));
+    assertTrue(summary.contains("Unknown UAE bank code"));
+    assertTrue(summary.contains("IBAN must start with AE"));
+    assertTrue(summary.contains("033"));
+    assertTrue(summary.contains("999"));
+    assertTrue(summary.contains("(none)"));
+    assertTrue(summary.contains("(error)"));
+    assertTrue(summary.contains("registry search"));
+  }
+
+  @Test
+  void reportsEmptyTablesForRecordingWithoutOurEvents() throws Exception {
+    Path file = tmp.resolve("empty.jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.start();
+      recording.stop();
+      recording.dump(file);
+    }
+
+    assertTrue(JfrRecordingSummary.summarize(file).contains("(no events)"));
+  }
+
+  private static void validation(boolean valid, String reason, String bankCode) {
+    IbanValidationEvent event = new IbanValidationEvent();
+    event.start();
+    event.valid = valid;
+    event.reason = reason;
+    event.bankCode = bankCode;
+    event.commit();
+  }
+}
@@ -0,0 +1,35 @@
+package com.pearldatadirect.ibanvalidator.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+final class JfrTestSupport {
+
+  private JfrTestSupport() {}
+
+  /**
+   * The jfr/ibanvalidator.jfc profile shipped in src/main/resources.
+   */
+  static Configuration bundledSettings() throws Exception {
+    try (Reader reader = new InputStreamReader(
+        Objects.requireNonNull(JfrTestSupport.class.getResourceAsStream("/jfr/ibanvalidator.jfc")),
+        StandardCharsets.UTF_8)) {
+      return Configuration.create(reader);
+    }
+  }
+
+  static List<RecordedEvent> events(Path recording, String eventName) throws IOException {
+    return RecordingFile.readAllEvents(recording).stream()
+        .filter(e -> e.getEventType().getName().equals(eventName))
+        .toList();
+  }
+}
@@ -0,0 +1,157 @@
+package com.pearldatadirect.ibanvalidator.validation;
+
+import com.pearldatadirect.ibanvalidator.registry.AeBankCodeRegistry;
+import com.pearldatadirect.ibanvalidator.registry.AeBankInfo;
+import jakarta.validation.ConstraintValidatorContext;
+import org.iban4j.CountryCode;
+import org.iban4j.Iban;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AeIbanPrefixCheckerTest {
+
+  static final AeBankInfo MASHREQ =
+      new AeBankInfo("033", "Mashreq", "Mashreq", "BOMLAEAD", "BOMLAEADXXX", "203320101", "Live");
+
+  @Mock
+  AeBankCodeRegistry registry;
+
+  AeIbanPrefixChecker checker;
+
+  String valid;
+
+  @BeforeEach
+  void setup() {
+    checker = new AeIbanPrefixChecker(registry);
+    valid = new Iban.Builder()
+        .countryCode(CountryCode.AE)
+        .bankCode("033")
+        .accountNumber("1234567890123456")
+        .build()
+        .toString();
+  }
+
+  @Test
+  void emptyInputIsIncompleteButNotInvalid() {
+    AeIbanPrefixStatus s = checker.check("");
+
+    assertTrue(s.valid());
+    assertFalse(s.countryOk());
+    assertEquals(23, s.remaining());
+    assertNull(s.checksumValid());
+    assertNull(s.reason());
+    verifyNoInteractions(registry);
+  }
+
+  @Test
+  void reportsCountryAndCheckDigits() {
+    AeIbanPrefixStatus s = checker.check("ae" + valid.substring(2, 4));
+
+    assertTrue(s.valid());
+    assertTrue(s.countryOk());
+    assertTrue(s.checkDigitsPresent());
+    assertNull(s.bank());
+    assertEquals(19, s.remaining());
+  }
+
+  @Test
+  void resolvesBankOnceBankCodeIsTyped() {
+    when(registry.get("033")).thenReturn(Optional.of(MASHREQ));
+    when(registry.isValid("033")).thenReturn(true);
+
+    AeIbanPrefixStatus s = checker.check(valid.substring(0, 7));
+
+    assertTrue(s.valid());
+    assertEquals(MASHREQ, s.bank());
+    assertEquals(16, s.remaining());
+  }
+
+  @Test
+  void rejectsUnknownBankCodeBeforeComplete() {
+    when(registry.get("999")).thenReturn(Optional.empty());
+
+    AeIbanPrefixStatus s = checker.check("AE07 999");
+
+    assertFalse(s.valid());
+    assertEquals("Unknown UAE bank code", s.reason());
+  }
+
+  @Test
+  void completeFormattedIbanPassesChecksum() {
+    when(registry.get("033")).thenReturn(Optional.of(MASHREQ));
+    when(registry.isValid("033")).thenReturn(true);
+
+    AeIbanPrefixStatus s = checker.check(Iban.valueOf(valid).toFormattedString().toLowerCase());
+
+    assertTrue(s.valid());
+    assertTrue(s.complete());
+    assertEquals(0, s.remaining());
+    assertEquals(Boolean.TRUE, s.checksumValid());
+  }
+
+  @Test
+  void completeIbanWithWrongChecksumIsRejected() {
+    when(registry.get("033")).thenReturn(Optional.of(MASHREQ));
+    when(registry.isValid("033")).thenReturn(true);
+
+    char last = valid.charAt(valid.length() - 1);
+    String bad = valid.substring(0, valid.length() - 1) + ((last == '9') ? '8' : '9');
+
+    AeIbanPrefixStatus s = checker.check(bad);
+
+    assertFalse(s.valid());
+    assertTrue(s.complete());
+    assertEquals(Boolean.FALSE, s.checksumValid());
+    assertEquals("Invalid IBAN check digits", s.reason());
+  }
+
+  @Test
+  void rejectsWrongCountryAndBadCharactersEarly() {
+    assertEquals("IBAN must start with AE", checker.check("GB").reason());
+    assertEquals("IBAN must be alphanumeric", checker.check("AE07-").reason());
+    assertEquals("Invalid IBAN format", checker.check("AE0X").reason());
+  }
+
+  @Test
+  void onlySkipsWhitespaceTheValidatorStrips() {
+    assertNull(checker.check(" AE\t07\r\n").reason());
+    assertEquals("IBAN must be alphanumeric", checker.check("AE07\u2003").reason());
+    assertEquals("IBAN must be alphanumeric", checker.check("AE\u001F07").reason());
+  }
+
+  @Test
+  void trimsControlCharactersAtTheEndsLikeTheValidator() {
+    when(registry.get("033")).thenReturn(Optional.of(MASHREQ));
+    when(registry.isValid("033")).thenReturn(true);
+
+    String input = "\u0001" + valid + "\u001F";
+
+    AeIbanPrefixStatus s = checker.check(input);
+    assertTrue(s.valid());
+    assertTrue(s.complete());
+
+    ConstraintValidatorContext context = mock(ConstraintValidatorContext.class);
+    assertTrue(new AeIbanValidator(registry).isValid(input, context));
+  }
+
+  @Test
+  void rejectsTooLong() {
+    when(registry.get("033")).thenReturn(Optional.of(MASHREQ));
+
+    AeIbanPrefixStatus s = checker.check(valid + "1");
+
+    assertFalse(s.valid());
+    assertFalse(s.complete());
+    assertEquals(0, s.remaining());
+    assertEquals("UAE (AE) IBAN must be exactly 23 characters", s.reason());
+  }
+}
@@ -0,0 +1,50 @@
+package com.pearldatadirect.ibanvalidator.web;
+
+import com.pearldatadirect.ibanvalidator.registry.AeBankCodeRegistry;
+import com.pearldatadirect.ibanvalidator.registry.AeBankInfo;
+import com.pearldatadirect.ibanvalidator.validation.AeIbanPrefixChecker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = IbanPrefixController.class)
+@Import(AeIbanPrefixChecker.class)
+class IbanPrefixControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @MockitoBean
+  AeBankCodeRegistry registry;
+
+  @Test
+  void returnsResolvedBankForPartialIban() throws Exception {
+    AeBankInfo info = new AeBankInfo("033", "Mashreq", "Mashreq", "BOMLAEAD", "BOMLAEADXXX", "203320101", "Live");
+    when(registry.get("033")).thenReturn(Optional.of(info));
+    when(registry.isValid("033")).thenReturn(true);
+
+    mockMvc.perform(get("/api/iban/prefix").param("value", "AE07 033"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.valid").value(true))
+        .andExpect(jsonPath("$.countryOk").value(true))
+        .andExpect(jsonPath("$.bank.bankCode").value("033"))
+        .andExpect(jsonPath("$.remaining").value(16));
+  }
+
+  @Test
+  void returns200WithReasonForInvalidPrefix() throws Exception {
+    mockMvc.perform(get("/api/iban/prefix").param("value", "GB82"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.valid").value(false))
+        .andExpect(jsonPath("$.reason").value("IBAN must start with AE"));
+  }
+}